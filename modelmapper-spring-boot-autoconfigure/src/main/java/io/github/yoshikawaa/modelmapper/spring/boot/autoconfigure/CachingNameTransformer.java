@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import org.modelmapper.spi.NameTransformer;
+import org.modelmapper.spi.NameableType;
+
+import lombok.Getter;
+
+/**
+ * {@link NameTransformer} to cache results of delegate {@link NameTransformer}.
+ *
+ * @author Atsushi Yoshikawa
+ */
+public class CachingNameTransformer implements NameTransformer {
+
+    @Getter
+    private final NameTransformer delegate;
+    @Getter
+    private final NameCache<String> cache;
+
+    /**
+     * Create {@link CachingNameTransformer}.
+     *
+     * @param delegate {@link NameTransformer} to cache
+     * @param maxSize  max size of cache
+     */
+    public CachingNameTransformer(NameTransformer delegate, int maxSize) {
+        this.delegate = delegate;
+        this.cache = new NameCache<>(maxSize);
+    }
+
+    @Override
+    public String transform(String name, NameableType nameableType) {
+        return cache.get(name, nameableType, (n, t) -> delegate.transform(n, t));
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
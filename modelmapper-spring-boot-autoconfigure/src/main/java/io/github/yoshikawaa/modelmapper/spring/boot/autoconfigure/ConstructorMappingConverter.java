@@ -0,0 +1,214 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import java.beans.ConstructorProperties;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.modelmapper.Condition;
+import org.modelmapper.config.Configuration;
+import org.modelmapper.spi.ConditionalConverter;
+import org.modelmapper.spi.MappingContext;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ConditionalConverter} to instantiate immutable destinations with their all-args constructor.
+ * <p>
+ * Destinations without no-arg constructor are instantiated with the public constructor having the most parameters,
+ * if all parameters are matched to source properties by name.
+ * The constructor plan is cached for each pair of source type and destination type,
+ * and looked up without allocating a key object.
+ * In pooled mode, the constructor arguments array is reused by each thread and cleared after each conversion,
+ * and a new array is used for reentrant conversion of the same pair.
+ * </p>
+ * <p>
+ * Notice that constructor arguments are read with the getters named after the parameters,
+ * unlike implicit mappings of {@link org.modelmapper.TypeMap}.
+ * </p>
+ * <ul>
+ * <li>Naming conventions, name transformers, tokenizers and matching strategy are not used,
+ * and source properties are not flattened (such as {@code customer.name} to {@code customerName}).</li>
+ * <li>Property {@link Condition} of {@link Configuration} is applied to each non-null argument,
+ * and the default value ({@code null} or zero) is used if it does not apply.</li>
+ * <li>Arguments not assignable to the generic parameter type (such as {@code List<Item>} to {@code List<ItemDto>})
+ * are mapped with {@link org.modelmapper.ModelMapper}, but {@link org.modelmapper.TypeMap} for the pair of source
+ * type and destination type is not used. A registered {@link org.modelmapper.TypeMap} takes precedence over this
+ * converter, and it requires a {@link org.modelmapper.Provider} to instantiate the destination.</li>
+ * </ul>
+ *
+ * @author Atsushi Yoshikawa
+ */
+@Slf4j
+public class ConstructorMappingConverter implements ConditionalConverter<Object, Object> {
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<Class<?>, Map<Class<?>, Optional<ConstructorPlan>>> plans = new ConcurrentHashMap<>();
+    private final Configuration configuration;
+    private final boolean pooled;
+
+    /**
+     * Create {@link ConstructorMappingConverter}.
+     *
+     * @param configuration {@link Configuration} to resolve property {@link Condition}
+     */
+    public ConstructorMappingConverter(Configuration configuration) {
+        this(configuration, false);
+    }
+
+    /**
+     * Create {@link ConstructorMappingConverter}.
+     *
+     * @param configuration {@link Configuration} to resolve property {@link Condition}
+     * @param pooled        whether to reuse constructor arguments arrays by each thread
+     */
+    public ConstructorMappingConverter(Configuration configuration, boolean pooled) {
+        this.configuration = configuration;
+        this.pooled = pooled;
+    }
+
+    @Override
+    public MatchResult match(Class<?> sourceType, Class<?> destinationType) {
+        return plan(sourceType, destinationType).isPresent() ? MatchResult.FULL : MatchResult.NONE;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object convert(MappingContext<Object, Object> context) {
+        if (context.getSource() == null) {
+            return null;
+        }
+        ConstructorPlan plan = plan(context.getSourceType(), context.getDestinationType())
+                .orElseThrow(() -> new IllegalStateException("No constructor for " + context.getDestinationType()));
+
+        Condition<Object, Object> condition = (Condition<Object, Object>) configuration.getPropertyCondition();
+        Object[] args = plan.args.acquire();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                Object value = ReflectionUtils.invokeMethod(plan.getters[i], context.getSource());
+                if (value == null) {
+                    args[i] = plan.defaultValues[i];
+                    continue;
+                }
+                Type genericType = plan.genericParameterTypes[i];
+                boolean mapping = genericType != null
+                        || !ClassUtils.isAssignableValue(plan.parameterTypes[i], value);
+                MappingContext<Object, Object> valueContext = null;
+                if (condition != null || mapping) {
+                    valueContext = genericType != null ? context.create(value, genericType)
+                            : context.create(value, (Class<Object>) plan.parameterTypes[i]);
+                }
+                if (condition != null && !condition.applies(valueContext)) {
+                    args[i] = plan.defaultValues[i];
+                } else {
+                    args[i] = mapping ? context.getMappingEngine().map(valueContext) : value;
+                }
+            }
+            return plan.constructor.newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            ReflectionUtils.handleReflectionException(e);
+            throw new IllegalStateException("Should never get here");
+        } finally {
+            plan.args.release(args);
+        }
+    }
+
+    private Optional<ConstructorPlan> plan(Class<?> sourceType, Class<?> destinationType) {
+        Map<Class<?>, Optional<ConstructorPlan>> destinationPlans = plans.get(sourceType);
+        if (destinationPlans == null) {
+            destinationPlans = plans.computeIfAbsent(sourceType, type -> new ConcurrentHashMap<>());
+        }
+        Optional<ConstructorPlan> plan = destinationPlans.get(destinationType);
+        if (plan == null) {
+            plan = destinationPlans.computeIfAbsent(destinationType,
+                    type -> Optional.ofNullable(createPlan(sourceType, destinationType)));
+        }
+        return plan;
+    }
+
+    private ConstructorPlan createPlan(Class<?> sourceType, Class<?> destinationType) {
+        if (destinationType.isInterface() || Modifier.isAbstract(destinationType.getModifiers())
+                || ClassUtils.isPrimitiveOrWrapper(destinationType) || destinationType.getName().startsWith("java.")
+                || Arrays.stream(destinationType.getDeclaredConstructors())
+                        .anyMatch(constructor -> constructor.getParameterCount() == 0)) {
+            return null;
+        }
+        Constructor<?> constructor = Arrays.stream(destinationType.getConstructors())
+                .max(Comparator.comparingInt(Constructor::getParameterCount)).orElse(null);
+        if (constructor == null || constructor.getParameterCount() == 0) {
+            return null;
+        }
+        String[] names = parameterNames(constructor);
+        if (names == null || names.length != constructor.getParameterCount()) {
+            return null;
+        }
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Type[] genericTypes = constructor.getGenericParameterTypes();
+        Type[] genericParameterTypes = new Type[names.length];
+        Object[] defaultValues = new Object[names.length];
+        Method[] getters = new Method[names.length];
+        for (int i = 0; i < names.length; i++) {
+            PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(sourceType, names[i]);
+            if (descriptor == null || descriptor.getReadMethod() == null) {
+                return null;
+            }
+            getters[i] = descriptor.getReadMethod();
+            ReflectionUtils.makeAccessible(getters[i]);
+            // parameterized types are mapped unless the getter returns exactly the same type.
+            if (genericTypes.length == names.length && !(genericTypes[i] instanceof Class)
+                    && !genericTypes[i].equals(getters[i].getGenericReturnType())) {
+                genericParameterTypes[i] = genericTypes[i];
+            }
+            defaultValues[i] = parameterTypes[i].isPrimitive() ? Array.get(Array.newInstance(parameterTypes[i], 1), 0)
+                    : null;
+        }
+        ReflectionUtils.makeAccessible(constructor);
+        log.trace("Map {} to {} with constructor {}.", sourceType.getName(), destinationType.getName(), constructor);
+        return new ConstructorPlan(constructor, parameterTypes, defaultValues, genericParameterTypes, getters,
+                new ScratchPool<>(pooled, () -> new Object[names.length], args -> Arrays.fill(args, null)));
+    }
+
+    private String[] parameterNames(Constructor<?> constructor) {
+        ConstructorProperties properties = constructor.getAnnotation(ConstructorProperties.class);
+        return properties != null ? properties.value() : parameterNameDiscoverer.getParameterNames(constructor);
+    }
+
+    @RequiredArgsConstructor
+    private static class ConstructorPlan {
+        private final Constructor<?> constructor;
+        private final Class<?>[] parameterTypes;
+        private final Object[] defaultValues;
+        private final Type[] genericParameterTypes;
+        private final Method[] getters;
+        private final ScratchPool<Object[]> args;
+    }
+}
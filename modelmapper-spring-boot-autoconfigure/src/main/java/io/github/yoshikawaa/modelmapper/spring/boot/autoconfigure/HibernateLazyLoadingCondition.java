@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.Hibernate;
+import org.modelmapper.Condition;
+import org.modelmapper.spi.MappingContext;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link Condition} to skip uninitialized Hibernate proxies and persistent collections.
+ * <p>
+ * Skipped paths are reported once per path so that fetch joins can be added.
+ * </p>
+ * <p>
+ * Notice that {@link Condition} is evaluated with the resolved source value of each mapping.
+ * Associations mapped as a whole (same type without {@code deepCopyEnabled}, or collection properties) are skipped.
+ * But flattened mappings (such as {@code customer.name} to {@code customerName}) and associations mapped property by
+ * property (such as {@code Customer} to {@code CustomerDto}) read the association before this condition is evaluated,
+ * so that the proxy is initialized. Use fetch joins or explicit {@code TypeMap}s for such mappings.
+ * </p>
+ *
+ * @author Atsushi Yoshikawa
+ */
+@Slf4j
+public class HibernateLazyLoadingCondition implements Condition<Object, Object> {
+
+    private final Set<String> skippedPaths = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean applies(MappingContext<Object, Object> context) {
+        if (Hibernate.isInitialized(context.getSource())) {
+            return true;
+        }
+        String path = path(context);
+        if (skippedPaths.add(path)) {
+            log.debug("Skip uninitialized lazy association [{}], consider fetch join.", path);
+        }
+        return false;
+    }
+
+    /**
+     * Get paths skipped by this condition.
+     *
+     * @return skipped paths
+     */
+    public Set<String> getSkippedPaths() {
+        return Collections.unmodifiableSet(skippedPaths);
+    }
+
+    private String path(MappingContext<Object, Object> context) {
+        MappingContext<?, ?> parent = context.getParent();
+        String owner = parent == null ? "" : parent.getSourceType().getName() + ".";
+        return context.getMapping() == null ? owner + context.getSourceType().getName()
+                : owner + context.getMapping().getPath();
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.modelmapper.Condition;
+import org.modelmapper.config.Configuration;
+import org.modelmapper.spi.ConditionalConverter;
+import org.modelmapper.spi.MappingContext;
+import org.modelmapper.spi.NameableType;
+import org.modelmapper.spi.PropertyType;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ConditionalConverter} to map {@code Map<String, Object>} sources with precomputed key plans.
+ * <p>
+ * Setters of destination type are resolved with the destination {@code NamingConvention}, {@code NameTransformer}
+ * and {@code NameTokenizer}, and map keys are resolved with the source {@code NameTokenizer}.
+ * Keys are matched to setters when all tokens are equal ignoring case, regardless of {@code MatchingStrategy}
+ * (such as {@code user_name} to {@code setUserName}, but neither {@code username} nor {@code user_name_id}).
+ * The plan is cached for each destination type, and resolved keys are cached in the plan up to max size.
+ * In pooled mode, the array tracking mapped setters is reused by each thread and cleared after each conversion,
+ * and a new array is used for reentrant conversion of the same destination type.
+ * Values not assignable to setters are mapped with {@code MappingEngine}, so that registered {@code Converter}s
+ * are applied, and nested {@code Map} values are mapped with the plan of the property type.
+ * Property {@link Condition} of {@link Configuration} is applied to each non-null value,
+ * and the property is not set if it does not apply.
+ * </p>
+ * <p>
+ * Destination types without no-arg constructor, having parameterized {@code Collection} or {@code Map} properties,
+ * or having setters with the same tokens, are mapped with the default path.
+ * If some keys are matched to the same setter, mapping fails unless {@code ambiguityIgnored} is enabled,
+ * in which case only the first key is mapped.
+ * </p>
+ *
+ * @author Atsushi Yoshikawa
+ */
+@Slf4j
+public class MapSourceConverter implements ConditionalConverter<Object, Object> {
+
+    private final Configuration configuration;
+    private final int maxSize;
+    private final boolean pooled;
+    private final Map<Class<?>, Optional<MapSourcePlan>> plans = new ConcurrentHashMap<>();
+
+    /**
+     * Create {@link MapSourceConverter}.
+     *
+     * @param configuration {@link Configuration} to resolve names
+     * @param maxSize       max size of resolved keys cached for each destination type
+     */
+    public MapSourceConverter(Configuration configuration, int maxSize) {
+        this(configuration, maxSize, false);
+    }
+
+    /**
+     * Create {@link MapSourceConverter}.
+     *
+     * @param configuration {@link Configuration} to resolve names
+     * @param maxSize       max size of resolved keys cached for each destination type
+     * @param pooled        whether to reuse arrays tracking mapped setters by each thread
+     */
+    public MapSourceConverter(Configuration configuration, int maxSize, boolean pooled) {
+        this.configuration = configuration;
+        this.maxSize = maxSize;
+        this.pooled = pooled;
+    }
+
+    @Override
+    public MatchResult match(Class<?> sourceType, Class<?> destinationType) {
+        return Map.class.isAssignableFrom(sourceType) && plan(destinationType).isPresent() ? MatchResult.FULL
+                : MatchResult.NONE;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object convert(MappingContext<Object, Object> context) {
+        if (context.getSource() == null) {
+            return null;
+        }
+        MapSourcePlan plan = plan(context.getDestinationType())
+                .orElseThrow(() -> new IllegalStateException("No setters for " + context.getDestinationType()));
+        Object destination = context.getDestination();
+        if (destination == null) {
+            try {
+                destination = plan.constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                ReflectionUtils.handleReflectionException(e);
+            }
+        }
+
+        boolean skipNull = configuration.isSkipNullEnabled();
+        Condition<Object, Object> condition = (Condition<Object, Object>) configuration.getPropertyCondition();
+        boolean[] mapped = plan.mapped.acquire();
+        try {
+            Map<?, ?> source = (Map<?, ?>) context.getSource();
+            for (Map.Entry<?, ?> entry : source.entrySet()) {
+                Setter setter = entry.getKey() instanceof String ? plan.setter((String) entry.getKey()) : null;
+                if (setter == null) {
+                    continue;
+                }
+                if (mapped[setter.index]) {
+                    if (configuration.isAmbiguityIgnored()) {
+                        continue;
+                    }
+                    throw new IllegalStateException(
+                            "Ambiguous keys for " + setter.method + " in " + source.keySet());
+                }
+                mapped[setter.index] = true;
+                Object value = entry.getValue();
+                if (value == null) {
+                    if (skipNull || setter.type.isPrimitive()) {
+                        continue;
+                    }
+                } else {
+                    boolean mapping = !ClassUtils.isAssignableValue(setter.type, value);
+                    MappingContext<Object, Object> valueContext = null;
+                    if (condition != null || mapping) {
+                        valueContext = context.create(value, (Class<Object>) setter.type);
+                    }
+                    if (condition != null && !condition.applies(valueContext)) {
+                        continue;
+                    }
+                    if (mapping) {
+                        value = context.getMappingEngine().map(valueContext);
+                    }
+                }
+                ReflectionUtils.invokeMethod(setter.method, destination, value);
+            }
+        } finally {
+            plan.mapped.release(mapped);
+        }
+        return destination;
+    }
+
+    private Optional<MapSourcePlan> plan(Class<?> destinationType) {
+        Optional<MapSourcePlan> plan = plans.get(destinationType);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(destinationType, type -> Optional.ofNullable(createPlan(type)));
+        }
+        return plan;
+    }
+
+    private MapSourcePlan createPlan(Class<?> destinationType) {
+        if (destinationType.isInterface() || Modifier.isAbstract(destinationType.getModifiers())
+                || ClassUtils.isPrimitiveOrWrapper(destinationType) || destinationType.getName().startsWith("java.")) {
+            return null;
+        }
+        Constructor<?> constructor;
+        try {
+            constructor = destinationType.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        ReflectionUtils.makeAccessible(constructor);
+
+        Map<String, Setter> setters = new HashMap<>();
+        for (Method method : destinationType.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1
+                    || method.getDeclaringClass() == Object.class || !configuration.getDestinationNamingConvention()
+                            .applies(method.getName(), PropertyType.METHOD)) {
+                continue;
+            }
+            if (method.getGenericParameterTypes()[0] instanceof ParameterizedType
+                    && (Collection.class.isAssignableFrom(method.getParameterTypes()[0])
+                            || Map.class.isAssignableFrom(method.getParameterTypes()[0]))) {
+                return null;
+            }
+            String name = configuration.getDestinationNameTransformer().transform(method.getName(),
+                    NameableType.METHOD);
+            String[] tokens = configuration.getDestinationNameTokenizer().tokenize(name, NameableType.METHOD);
+            ReflectionUtils.makeAccessible(method);
+            if (setters.putIfAbsent(normalize(tokens), new Setter(method, method.getParameterTypes()[0],
+                    setters.size())) != null) {
+                log.trace("Map Map to {} with default path, ambiguous setter {}.", destinationType.getName(), method);
+                return null;
+            }
+        }
+        if (setters.isEmpty()) {
+            return null;
+        }
+        log.trace("Map Map to {} with setters {}.", destinationType.getName(), setters.keySet());
+        return new MapSourcePlan(constructor, setters);
+    }
+
+    private String normalize(String[] tokens) {
+        // separate tokens, so that "a_bc" and "ab_c" are not matched to the same setter.
+        return String.join("_", tokens).toLowerCase(Locale.ROOT);
+    }
+
+    private class MapSourcePlan {
+        private final Constructor<?> constructor;
+        private final Map<String, Setter> setters;
+        private final NameCache<Setter> keys = new NameCache<>(maxSize);
+        private final BiFunction<String, NameableType, Setter> loader;
+        private final ScratchPool<boolean[]> mapped;
+
+        MapSourcePlan(Constructor<?> constructor, Map<String, Setter> setters) {
+            this.constructor = constructor;
+            this.setters = setters;
+            this.loader = (name, nameableType) -> setters
+                    .get(normalize(configuration.getSourceNameTokenizer().tokenize(name, nameableType)));
+            this.mapped = new ScratchPool<>(pooled, () -> new boolean[setters.size()],
+                    array -> Arrays.fill(array, false));
+        }
+
+        Setter setter(String key) {
+            // unmatched keys are not cached.
+            return keys.get(key, NameableType.GENERIC, loader);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Setter {
+        private final Method method;
+        private final Class<?> type;
+        private final int index;
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.modelmapper.ModelMapper;
+
+/**
+ * Map the return value of a handler method with {@link ModelMapper}, and write it as JSON.
+ * <p>
+ * {@code Stream}, {@code Iterable}, {@code Iterator} and array return values are mapped element by element
+ * while the JSON array is written to the response.
+ * On Spring WebFlux, {@code Flux} and other {@code Publisher} return values are also supported
+ * ({@code Mono} is written as a single value).
+ * </p>
+ *
+ * @author Atsushi Yoshikawa
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface MapTo {
+
+    /**
+     * Destination type.
+     *
+     * @return destination type
+     */
+    Class<?> value();
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.modelmapper.ModelMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link HandlerResultHandler} for handler methods annotated with {@link MapTo}.
+ * <p>
+ * Elements are mapped one by one while the JSON array is written to the response,
+ * so that mapped objects are not held on the heap all together.
+ * </p>
+ *
+ * @author Atsushi Yoshikawa
+ */
+@Slf4j
+public class MapToResultHandler implements HandlerResultHandler, Ordered {
+
+    private static final byte[] ARRAY_START = "[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_SEPARATOR = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_END = "]".getBytes(StandardCharsets.UTF_8);
+
+    private final ModelMapper modelMapper;
+    private final ObjectWriter objectWriter;
+
+    /**
+     * Create {@link MapToResultHandler}.
+     *
+     * @param modelMapper  {@link ModelMapper} to map elements
+     * @param objectMapper {@link ObjectMapper} to write elements
+     */
+    public MapToResultHandler(ModelMapper modelMapper, ObjectMapper objectMapper) {
+        this.modelMapper = modelMapper;
+        this.objectWriter = objectMapper.writer();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public boolean supports(HandlerResult result) {
+        return result.getReturnTypeSource().hasMethodAnnotation(MapTo.class);
+    }
+
+    @Override
+    public Mono<Void> handleResult(ServerWebExchange exchange, HandlerResult result) {
+
+        Class<?> destinationType = result.getReturnTypeSource().getMethodAnnotation(MapTo.class).value();
+        log.trace("Map return value of {} to {}.", result.getReturnTypeSource().getMethod(),
+                destinationType.getName());
+
+        ServerHttpResponse response = exchange.getResponse();
+        DataBufferFactory bufferFactory = response.bufferFactory();
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        Object returnValue = result.getReturnValue();
+        if (returnValue instanceof Mono) {
+            return response.writeWith(((Mono<?>) returnValue)
+                    .map(element -> write(bufferFactory, map(element, destinationType))));
+        }
+        Flux<?> elements = elements(returnValue);
+        if (elements == null) {
+            return response.writeWith(Mono.fromSupplier(() -> write(bufferFactory, map(returnValue, destinationType))));
+        }
+        return response.writeWith(Flux.concat(
+                Mono.fromSupplier(() -> bufferFactory.wrap(ARRAY_START)),
+                elements.index().map(element -> {
+                    DataBuffer buffer = write(bufferFactory, map(element.getT2(), destinationType));
+                    return element.getT1() == 0 ? buffer
+                            : bufferFactory.join(Arrays.asList(bufferFactory.wrap(ARRAY_SEPARATOR), buffer));
+                }),
+                Mono.fromSupplier(() -> bufferFactory.wrap(ARRAY_END))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Flux<?> elements(Object returnValue) {
+        if (returnValue instanceof Publisher) {
+            return Flux.from((Publisher<?>) returnValue);
+        }
+        if (returnValue instanceof Stream) {
+            return Flux.fromStream((Stream<?>) returnValue);
+        }
+        if (returnValue instanceof Iterable) {
+            return Flux.fromIterable((Iterable<?>) returnValue);
+        }
+        if (returnValue instanceof Iterator) {
+            return Flux.fromIterable(() -> (Iterator<Object>) returnValue);
+        }
+        if (returnValue != null && returnValue.getClass().isArray()) {
+            return Flux.fromArray(ObjectUtils.toObjectArray(returnValue));
+        }
+        return null;
+    }
+
+    private Object map(Object source, Class<?> destinationType) {
+        return source == null ? null : modelMapper.map(source, destinationType);
+    }
+
+    private DataBuffer write(DataBufferFactory bufferFactory, Object value) {
+        try {
+            return bufferFactory.wrap(objectWriter.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+}
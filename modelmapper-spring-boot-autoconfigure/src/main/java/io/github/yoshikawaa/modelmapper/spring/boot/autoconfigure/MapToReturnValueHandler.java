@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link HandlerMethodReturnValueHandler} for handler methods annotated with {@link MapTo}.
+ * <p>
+ * Elements are mapped one by one while the JSON array is written to the response,
+ * so that mapped objects are not held on the heap all together.
+ * </p>
+ *
+ * @author Atsushi Yoshikawa
+ */
+@Slf4j
+public class MapToReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private final ModelMapper modelMapper;
+    private final ObjectWriter objectWriter;
+
+    /**
+     * Create {@link MapToReturnValueHandler}.
+     *
+     * @param modelMapper  {@link ModelMapper} to map elements
+     * @param objectMapper {@link ObjectMapper} to write elements
+     */
+    public MapToReturnValueHandler(ModelMapper modelMapper, ObjectMapper objectMapper) {
+        this.modelMapper = modelMapper;
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return returnType.hasMethodAnnotation(MapTo.class);
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType,
+            ModelAndViewContainer mavContainer, NativeWebRequest webRequest) throws Exception {
+
+        mavContainer.setRequestHandled(true);
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        Assert.state(response != null, "No HttpServletResponse");
+        Class<?> destinationType = returnType.getMethodAnnotation(MapTo.class).value();
+        log.trace("Map return value of {} to {}.", returnType.getMethod(), destinationType.getName());
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try {
+            // not to close JSON array and response if mapping fails, so that the exception is not masked.
+            JsonGenerator generator = objectWriter.getFactory().createGenerator(response.getOutputStream())
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            Iterator<?> elements = elements(returnValue);
+            if (elements == null) {
+                objectWriter.writeValue(generator, map(returnValue, destinationType));
+            } else {
+                generator.writeStartArray();
+                while (elements.hasNext()) {
+                    objectWriter.writeValue(generator, map(elements.next(), destinationType));
+                }
+                generator.writeEndArray();
+            }
+            generator.close();
+        } finally {
+            if (returnValue instanceof Stream) {
+                ((Stream<?>) returnValue).close();
+            }
+        }
+    }
+
+    private Iterator<?> elements(Object returnValue) {
+        if (returnValue instanceof Stream) {
+            return ((Stream<?>) returnValue).iterator();
+        }
+        if (returnValue instanceof Iterable) {
+            return ((Iterable<?>) returnValue).iterator();
+        }
+        if (returnValue instanceof Iterator) {
+            return (Iterator<?>) returnValue;
+        }
+        if (returnValue != null && returnValue.getClass().isArray()) {
+            return Arrays.asList(ObjectUtils.toObjectArray(returnValue)).iterator();
+        }
+        return null;
+    }
+
+    private Object map(Object source, Class<?> destinationType) {
+        return source == null ? null : modelMapper.map(source, destinationType);
+    }
+}
@@ -16,16 +16,22 @@
 package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.modelmapper.Condition;
+import org.modelmapper.Conditions;
 import org.modelmapper.Converter;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.Module;
 import org.modelmapper.Provider;
 import org.modelmapper.config.Configuration;
+import org.modelmapper.spi.ConditionalConverter.MatchResult;
 import org.modelmapper.spring.SpringIntegration;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -33,7 +39,9 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.util.Assert;
 
+import io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure.TypeMapCostAnalyzer.TypeMapCost;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -45,7 +53,9 @@ import lombok.extern.slf4j.Slf4j;
 @org.springframework.context.annotation.Configuration
 @ConditionalOnClass(ModelMapper.class)
 @EnableConfigurationProperties(ModelMapperProperties.class)
-@Import(ModelMapperPropertiesConfiguration.class)
+@Import({ ModelMapperPropertiesConfiguration.class, ModelMapperHibernateConfiguration.class,
+        ModelMapperWebMvcConfiguration.class, ModelMapperWebFluxConfiguration.class,
+        ModelMapperBatchConfiguration.class })
 public class ModelMapperAutoConfiguration {
 
     /**
@@ -60,6 +70,18 @@ public class ModelMapperAutoConfiguration {
         return SpringIntegration.fromSpring(beanFactory);
     }
 
+    /**
+     * Build {@link NameCacheReporter}.
+     *
+     * @param modelMapper {@link ModelMapper} bean
+     * @return {@link NameCacheReporter}
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = ModelMapperProperties.PROPERTIES_PREFIX, name = ModelMapperProperties.PROPERTIES_NAME_CACHE_ENABLED)
+    public NameCacheReporter nameCacheReporter(ModelMapper modelMapper) {
+        return new NameCacheReporter(modelMapper);
+    }
+
     /**
      * Build {@link ModelMapper}.
      *
@@ -87,6 +109,7 @@ public class ModelMapperAutoConfiguration {
         configureMappings(modelMapper, providerProvider, conditionProvider, typeMapConfigurersProvider,
                 convertersProvider, modulesProvider);
         validateMappings(modelMapper, properties);
+        analyzeMappings(modelMapper, properties);
         loggingConfiguration(modelMapper);
 
         return modelMapper;
@@ -128,6 +151,40 @@ public class ModelMapperAutoConfiguration {
                 .ifPresent(useOSGiClassLoaderBridging -> configuration.setUseOSGiClassLoaderBridging(useOSGiClassLoaderBridging));
         Optional.ofNullable(properties.getDeepCopyEnabled())
                 .ifPresent(enabled -> configuration.setDeepCopyEnabled(enabled));
+
+        Assert.state(!properties.isPooledEnabled() || properties.isConstructorMappingEnabled()
+                || properties.isMapSourcePlanEnabled(),
+                "Pooled mode requires constructor-mapping-enabled or map-source-plan-enabled.");
+        if (properties.isConstructorMappingEnabled()) {
+            configuration.getConverters().add(0,
+                    new ConstructorMappingConverter(configuration, properties.isPooledEnabled()));
+        }
+        if (properties.isMapSourcePlanEnabled()) {
+            configuration.getConverters().add(0,
+                    new MapSourceConverter(configuration, properties.getNameCacheMaxSize(),
+                            properties.isPooledEnabled()));
+        }
+        if (properties.isNameCacheEnabled()) {
+            configureNameCache(configuration, properties.getNameCacheMaxSize());
+        }
+    }
+
+    private void configureNameCache(Configuration configuration, int maxSize) {
+
+        CachingNameTokenizer sourceNameTokenizer = new CachingNameTokenizer(configuration.getSourceNameTokenizer(),
+                maxSize);
+        configuration.setSourceNameTokenizer(sourceNameTokenizer);
+        configuration.setDestinationNameTokenizer(
+                configuration.getDestinationNameTokenizer() == sourceNameTokenizer.getDelegate() ? sourceNameTokenizer
+                        : new CachingNameTokenizer(configuration.getDestinationNameTokenizer(), maxSize));
+
+        CachingNameTransformer sourceNameTransformer = new CachingNameTransformer(
+                configuration.getSourceNameTransformer(), maxSize);
+        configuration.setSourceNameTransformer(sourceNameTransformer);
+        configuration.setDestinationNameTransformer(
+                configuration.getDestinationNameTransformer() == sourceNameTransformer.getDelegate()
+                        ? sourceNameTransformer
+                        : new CachingNameTransformer(configuration.getDestinationNameTransformer(), maxSize));
     }
 
     private void configureMappings(ModelMapper modelMapper,
@@ -140,7 +197,7 @@ public class ModelMapperAutoConfiguration {
         Configuration configuration = modelMapper.getConfiguration();
 
         providerProvider.ifAvailable(provider -> configuration.setProvider(provider));
-        conditionProvider.ifAvailable(condition -> configuration.setPropertyCondition(condition));
+        propertyCondition(conditionProvider).ifPresent(condition -> configuration.setPropertyCondition(condition));
         typeMapConfigurersProvider.ifAvailable(typeMapConfigurers -> typeMapConfigurers
                 .forEach(typeMapConfigurer -> typeMapConfigurer.typeMap(modelMapper)));
         convertersProvider
@@ -148,12 +205,81 @@ public class ModelMapperAutoConfiguration {
         modulesProvider.ifAvailable(modules -> modules.forEach(module -> modelMapper.registerModule(module)));
     }
 
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Optional<Condition> propertyCondition(ObjectProvider<Condition<?, ?>> conditionProvider) {
+
+        Condition<?, ?> userCondition;
+        try {
+            userCondition = conditionProvider.getIfAvailable();
+        } catch (NoUniqueBeanDefinitionException e) {
+            // lazy loading condition is not a candidate of user condition.
+            List<Condition<?, ?>> userConditions = conditionProvider.orderedStream()
+                    .filter(condition -> !(condition instanceof HibernateLazyLoadingCondition))
+                    .collect(Collectors.toList());
+            if (userConditions.size() != 1) {
+                throw e;
+            }
+            userCondition = userConditions.get(0);
+        }
+        if (userCondition instanceof HibernateLazyLoadingCondition) {
+            userCondition = null;
+        }
+
+        // evaluate lazy loading condition first not to initialize proxies in user condition.
+        return Stream.concat(conditionProvider.orderedStream()
+                .filter(condition -> condition instanceof HibernateLazyLoadingCondition), Stream.of(userCondition))
+                .filter(Objects::nonNull)
+                .map(condition -> (Condition) condition)
+                .reduce((condition1, condition2) -> Conditions.and(condition1, condition2));
+    }
+
     private void validateMappings(ModelMapper modelMapper, ModelMapperProperties properties) {
 
         if (properties.isValidateEnabled()) {
             modelMapper.validate();
             log.trace("Validate ModelMapper Configuration succeed.");
         }
+        if (properties.isConstructorMappingEnabled()) {
+            // registered TypeMaps take precedence over constructor mapping, and require no-arg constructor or Provider.
+            Configuration configuration = modelMapper.getConfiguration();
+            configuration.getConverters().stream()
+                    .filter(converter -> converter instanceof ConstructorMappingConverter)
+                    .map(converter -> (ConstructorMappingConverter) converter)
+                    .findFirst()
+                    .ifPresent(converter -> {
+                        List<String> conflicts = modelMapper.getTypeMaps().stream()
+                                .filter(typeMap -> typeMap.getConverter() == null && typeMap.getProvider() == null
+                                        && configuration.getProvider() == null)
+                                .filter(typeMap -> converter.match(typeMap.getSourceType(),
+                                        typeMap.getDestinationType()) == MatchResult.FULL)
+                                .map(typeMap -> typeMap.getSourceType().getName() + " -> "
+                                        + typeMap.getDestinationType().getName())
+                                .collect(Collectors.toList());
+                        Assert.state(conflicts.isEmpty(), () -> "ModelMapper TypeMaps without Provider "
+                                + "for destinations of constructor mapping : " + conflicts);
+                    });
+        }
+    }
+
+    private void analyzeMappings(ModelMapper modelMapper, ModelMapperProperties properties) {
+
+        if (properties.isCostAnalysisEnabled()) {
+            List<TypeMapCost> costs = new TypeMapCostAnalyzer().analyze(modelMapper);
+
+            log.info("ModelMapper TypeMap Cost Report ({} TypeMaps)", costs.size());
+            costs.forEach(cost -> log.info(" {}", cost));
+
+            List<TypeMapCost> exceeded = costs.stream()
+                    .filter(cost -> exceeds(cost.getMappings(), properties.getCostMaxMappings())
+                            || exceeds(cost.getMaxDepth(), properties.getCostMaxDepth())
+                            || exceeds(cost.getCost(), properties.getCostMaxScore()))
+                    .collect(Collectors.toList());
+            Assert.state(exceeded.isEmpty(), () -> "ModelMapper TypeMap cost exceeds thresholds : " + exceeded);
+        }
+    }
+
+    private boolean exceeds(int value, Integer threshold) {
+        return threshold != null && value > threshold;
     }
 
     private void loggingConfiguration(ModelMapper modelMapper) {
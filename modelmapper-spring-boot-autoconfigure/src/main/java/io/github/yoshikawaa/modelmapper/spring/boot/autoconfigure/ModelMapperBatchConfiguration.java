@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Batch Integration Configuration for {@link ModelMapper}.
+ *
+ * @author Atsushi Yoshikawa
+ */
+@Configuration
+@ConditionalOnClass({ ModelMapper.class, ItemProcessor.class })
+public class ModelMapperBatchConfiguration {
+
+    /**
+     * Build {@link ModelMapperItemFactory}.
+     *
+     * @param modelMapper {@link ModelMapper} bean
+     * @return {@link ModelMapperItemFactory}
+     */
+    @Bean
+    @ConditionalOnMissingBean(ModelMapperItemFactory.class)
+    public ModelMapperItemFactory modelMapperItemFactory(ModelMapper modelMapper) {
+        return new ModelMapperItemFactory(modelMapper);
+    }
+}
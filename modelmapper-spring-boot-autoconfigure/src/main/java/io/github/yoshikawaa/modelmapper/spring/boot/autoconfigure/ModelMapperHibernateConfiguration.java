@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import org.hibernate.Hibernate;
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate Integration Configuration for {@link ModelMapper}.
+ *
+ * @author Atsushi Yoshikawa
+ */
+@Configuration
+@ConditionalOnClass({ ModelMapper.class, Hibernate.class })
+public class ModelMapperHibernateConfiguration {
+
+    /**
+     * Build {@link HibernateLazyLoadingCondition}.
+     *
+     * @return {@link HibernateLazyLoadingCondition}
+     */
+    @Bean
+    @ConditionalOnMissingBean(HibernateLazyLoadingCondition.class)
+    @ConditionalOnProperty(prefix = ModelMapperProperties.PROPERTIES_PREFIX, name = ModelMapperProperties.PROPERTIES_HIBERNATE_LAZY_LOADING_SKIP_ENABLED)
+    public HibernateLazyLoadingCondition hibernateLazyLoadingCondition() {
+        return new HibernateLazyLoadingCondition();
+    }
+}
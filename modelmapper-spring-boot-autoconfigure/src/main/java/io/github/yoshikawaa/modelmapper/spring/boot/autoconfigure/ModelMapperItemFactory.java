@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * Factory of Spring Batch items using {@link ModelMapper}.
+ *
+ * @author Atsushi Yoshikawa
+ */
+public class ModelMapperItemFactory {
+
+    private final ModelMapper modelMapper;
+
+    /**
+     * Create {@link ModelMapperItemFactory}.
+     *
+     * @param modelMapper {@link ModelMapper} to map items
+     */
+    public ModelMapperItemFactory(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    /**
+     * Create {@link ModelMapperItemProcessor}.
+     *
+     * @param <S>             source type
+     * @param <D>             destination type
+     * @param sourceType      source type
+     * @param destinationType destination type
+     * @return {@link ModelMapperItemProcessor}
+     */
+    public <S, D> ModelMapperItemProcessor<S, D> processor(Class<S> sourceType, Class<D> destinationType) {
+        return new ModelMapperItemProcessor<>(modelMapper, sourceType, destinationType);
+    }
+
+    /**
+     * Create {@link ModelMapperItemWriter}.
+     *
+     * @param <S>             source type
+     * @param <D>             destination type
+     * @param sourceType      source type
+     * @param destinationType destination type
+     * @param delegate        {@link ItemWriter} to write mapped items
+     * @param parallel        whether to map a chunk in parallel
+     * @return {@link ModelMapperItemWriter}
+     */
+    public <S, D> ModelMapperItemWriter<S, D> writer(Class<S> sourceType, Class<D> destinationType,
+            ItemWriter<? super D> delegate, boolean parallel) {
+        ModelMapperItemWriter<S, D> writer = new ModelMapperItemWriter<>(modelMapper, sourceType, destinationType,
+                delegate);
+        writer.setParallel(parallel);
+        return writer;
+    }
+}
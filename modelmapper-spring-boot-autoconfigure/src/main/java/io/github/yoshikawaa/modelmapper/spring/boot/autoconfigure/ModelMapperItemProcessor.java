@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * {@link ItemProcessor} to map items with {@link ModelMapper}.
+ * <p>
+ * Registered {@link TypeMap} is resolved once, not for each item.
+ * Until the {@link TypeMap} is registered (explicitly, or implicitly by the first mapping),
+ * and for items of subclasses of source type, items are mapped with {@link ModelMapper#map(Object, Class)},
+ * so that no {@link TypeMap} is registered as a side effect, and runtime types and converters are respected.
+ * </p>
+ *
+ * @author Atsushi Yoshikawa
+ *
+ * @param <S> source type
+ * @param <D> destination type
+ */
+public class ModelMapperItemProcessor<S, D> implements ItemProcessor<S, D> {
+
+    private final ModelMapper modelMapper;
+    private final Class<S> sourceType;
+    private final Class<D> destinationType;
+    private volatile TypeMap<S, D> typeMap;
+
+    /**
+     * Create {@link ModelMapperItemProcessor}.
+     *
+     * @param modelMapper     {@link ModelMapper} to map items
+     * @param sourceType      source type
+     * @param destinationType destination type
+     */
+    public ModelMapperItemProcessor(ModelMapper modelMapper, Class<S> sourceType, Class<D> destinationType) {
+        this.modelMapper = modelMapper;
+        this.sourceType = sourceType;
+        this.destinationType = destinationType;
+    }
+
+    @Override
+    public D process(S item) {
+        if (item.getClass() == sourceType) {
+            TypeMap<S, D> resolved = typeMap();
+            if (resolved != null) {
+                return resolved.map(item);
+            }
+        }
+        return modelMapper.map(item, destinationType);
+    }
+
+    private TypeMap<S, D> typeMap() {
+        TypeMap<S, D> resolved = typeMap;
+        if (resolved == null) {
+            resolved = modelMapper.getTypeMap(sourceType, destinationType);
+            typeMap = resolved;
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.batch.item.ItemWriter;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@link ItemWriter} to map a whole chunk with {@link ModelMapper}, and write it with delegate {@link ItemWriter}.
+ * <p>
+ * The chunk is mapped in one pass, optionally in parallel, in the same way as {@link ModelMapperItemProcessor}.
+ * Use it instead of {@link ModelMapperItemProcessor} for chunk-level mapping.
+ * </p>
+ *
+ * @author Atsushi Yoshikawa
+ *
+ * @param <S> source type
+ * @param <D> destination type
+ */
+public class ModelMapperItemWriter<S, D> implements ItemWriter<S> {
+
+    private final ModelMapperItemProcessor<S, D> processor;
+    private final ItemWriter<? super D> delegate;
+
+    /**
+     * Whether to map a chunk in parallel.
+     */
+    @Getter
+    @Setter
+    private boolean parallel = false;
+
+    /**
+     * Create {@link ModelMapperItemWriter}.
+     *
+     * @param modelMapper     {@link ModelMapper} to map items
+     * @param sourceType      source type
+     * @param destinationType destination type
+     * @param delegate        {@link ItemWriter} to write mapped items
+     */
+    public ModelMapperItemWriter(ModelMapper modelMapper, Class<S> sourceType, Class<D> destinationType,
+            ItemWriter<? super D> delegate) {
+        this.processor = new ModelMapperItemProcessor<>(modelMapper, sourceType, destinationType);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void write(List<? extends S> items) throws Exception {
+        Stream<? extends S> stream = parallel ? items.parallelStream() : items.stream();
+        List<D> mapped = stream.map(item -> processor.process(item)).collect(Collectors.toList());
+        delegate.write(mapped);
+    }
+}
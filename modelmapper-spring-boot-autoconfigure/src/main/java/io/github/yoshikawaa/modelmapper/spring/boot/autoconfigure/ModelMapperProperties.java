@@ -38,6 +38,8 @@ public class ModelMapperProperties {
 
     public static final String PROPERTIES_PREFIX = "modelmapper";
     public static final String PROPERTIES_SPRING_PROVIDER_ENABLED = "spring-provider-enabled";
+    public static final String PROPERTIES_HIBERNATE_LAZY_LOADING_SKIP_ENABLED = "hibernate-lazy-loading-skip-enabled";
+    public static final String PROPERTIES_NAME_CACHE_ENABLED = "name-cache-enabled";
 
     private NameTokenizer sourceNameTokenizer;
     private NameTransformer sourceNameTransformer;
@@ -58,4 +60,14 @@ public class ModelMapperProperties {
     private Boolean deepCopyEnabled;
     private boolean springProviderEnabled = false;
     private boolean validateEnabled = false;
+    private boolean hibernateLazyLoadingSkipEnabled = false;
+    private boolean constructorMappingEnabled = false;
+    private boolean pooledEnabled = false;
+    private boolean mapSourcePlanEnabled = false;
+    private boolean nameCacheEnabled = false;
+    private int nameCacheMaxSize = 10000;
+    private boolean costAnalysisEnabled = false;
+    private Integer costMaxMappings;
+    private Integer costMaxDepth;
+    private Integer costMaxScore;
 }
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.DispatcherHandler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Spring WebFlux Integration Configuration for {@link ModelMapper}.
+ *
+ * @author Atsushi Yoshikawa
+ */
+@Configuration
+@ConditionalOnClass({ ModelMapper.class, DispatcherHandler.class, ObjectMapper.class })
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ModelMapperWebFluxConfiguration {
+
+    /**
+     * Build {@link MapToResultHandler}.
+     *
+     * @param modelMapper          {@link ModelMapper} bean
+     * @param objectMapperProvider {@link ObjectMapper} bean
+     * @return {@link MapToResultHandler}
+     */
+    @Bean
+    @ConditionalOnMissingBean(MapToResultHandler.class)
+    public MapToResultHandler mapToResultHandler(ModelMapper modelMapper,
+            ObjectProvider<ObjectMapper> objectMapperProvider) {
+        return new MapToResultHandler(modelMapper, objectMapperProvider.getIfAvailable(ObjectMapper::new));
+    }
+}
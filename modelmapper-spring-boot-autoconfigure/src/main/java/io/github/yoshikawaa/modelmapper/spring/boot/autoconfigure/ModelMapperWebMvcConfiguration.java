@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Spring MVC Integration Configuration for {@link ModelMapper}.
+ *
+ * @author Atsushi Yoshikawa
+ */
+@Configuration
+@ConditionalOnClass({ ModelMapper.class, DispatcherServlet.class, ObjectMapper.class })
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class ModelMapperWebMvcConfiguration {
+
+    /**
+     * Build {@link MapToReturnValueHandler}.
+     *
+     * @param modelMapper          {@link ModelMapper} bean
+     * @param objectMapperProvider {@link ObjectMapper} bean
+     * @return {@link MapToReturnValueHandler}
+     */
+    @Bean
+    @ConditionalOnMissingBean(MapToReturnValueHandler.class)
+    public MapToReturnValueHandler mapToReturnValueHandler(ModelMapper modelMapper,
+            ObjectProvider<ObjectMapper> objectMapperProvider) {
+        return new MapToReturnValueHandler(modelMapper, objectMapperProvider.getIfAvailable(ObjectMapper::new));
+    }
+
+    /**
+     * Build {@link BeanPostProcessor} to register {@link MapToReturnValueHandler} in front of default handlers.
+     *
+     * @param handlerProvider {@link MapToReturnValueHandler} bean
+     * @return {@link BeanPostProcessor}
+     */
+    @Bean
+    public static BeanPostProcessor mapToReturnValueHandlerPostProcessor(
+            ObjectProvider<MapToReturnValueHandler> handlerProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof RequestMappingHandlerAdapter) {
+                    RequestMappingHandlerAdapter adapter = (RequestMappingHandlerAdapter) bean;
+                    List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>();
+                    handlerProvider.ifAvailable(handler -> handlers.add(handler));
+                    Optional.ofNullable(adapter.getReturnValueHandlers())
+                            .ifPresent(defaultHandlers -> handlers.addAll(defaultHandlers));
+                    adapter.setReturnValueHandlers(handlers);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import org.modelmapper.spi.NameableType;
+
+/**
+ * Bounded and thread-safe cache of name processing results keyed by name and {@link NameableType}.
+ * <p>
+ * Results are not cached any more after the cache reaches max size.
+ * Results are held for each {@link NameableType}, so that no key object is allocated on lookup.
+ * </p>
+ *
+ * @author Atsushi Yoshikawa
+ *
+ * @param <V> result type
+ */
+public class NameCache<V> {
+
+    private final Map<NameableType, Map<String, V>> caches = new EnumMap<>(NameableType.class);
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final int maxSize;
+
+    /**
+     * Create {@link NameCache}.
+     *
+     * @param maxSize max size of cache
+     */
+    public NameCache(int maxSize) {
+        this.maxSize = maxSize;
+        for (NameableType nameableType : NameableType.values()) {
+            caches.put(nameableType, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Get cached result, or load and cache result.
+     *
+     * @param name         name
+     * @param nameableType type of name
+     * @param loader       loader of result
+     * @return result
+     */
+    public V get(String name, NameableType nameableType, BiFunction<String, NameableType, V> loader) {
+        Map<String, V> cache = caches.get(nameableType);
+        V value = cache.get(name);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        value = loader.apply(name, nameableType);
+        if (value != null && size.get() < maxSize && cache.putIfAbsent(name, value) == null) {
+            size.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Get count of cache hits.
+     *
+     * @return count of cache hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Get count of cache misses.
+     *
+     * @return count of cache misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Get size of cache.
+     *
+     * @return size of cache
+     */
+    public int getSize() {
+        return size.get();
+    }
+
+    @Override
+    public String toString() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return String.format("size=%d, hits=%d, misses=%d, hitRate=%.1f%%", getSize(), hitCount, total - hitCount,
+                total == 0 ? 0.0 : hitCount * 100.0 / total);
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import java.util.stream.Stream;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reporter of {@link CachingNameTokenizer} and {@link CachingNameTransformer} caches.
+ * <p>
+ * Caches are reported when the application is ready, after {@code TypeMap}s are created by startup mappings.
+ * Call {@link #report()} to report them at any time, or read counters with {@code getCache()} of each cache.
+ * </p>
+ *
+ * @author Atsushi Yoshikawa
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class NameCacheReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final ModelMapper modelMapper;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        report();
+    }
+
+    /**
+     * Log size, hits, misses and hit rate of caches.
+     */
+    public void report() {
+        Configuration configuration = modelMapper.getConfiguration();
+        Stream.of(configuration.getSourceNameTokenizer(), configuration.getDestinationNameTokenizer())
+                .filter(nameTokenizer -> nameTokenizer instanceof CachingNameTokenizer).distinct()
+                .map(nameTokenizer -> (CachingNameTokenizer) nameTokenizer)
+                .forEach(nameTokenizer -> log.info("ModelMapper NameTokenizer [{}] cache : {}",
+                        nameTokenizer.getDelegate(), nameTokenizer.getCache()));
+        Stream.of(configuration.getSourceNameTransformer(), configuration.getDestinationNameTransformer())
+                .filter(nameTransformer -> nameTransformer instanceof CachingNameTransformer).distinct()
+                .map(nameTransformer -> (CachingNameTransformer) nameTransformer)
+                .forEach(nameTransformer -> log.info("ModelMapper NameTransformer [{}] cache : {}",
+                        nameTransformer.getDelegate(), nameTransformer.getCache()));
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Per-thread pool of a scratch object used during one conversion.
+ * <p>
+ * In pooled mode, {@link #acquire()} returns the scratch object of current thread,
+ * or a new object if it is already in use by a reentrant conversion (such as mapping of recursive types).
+ * {@link #release(Object)} resets the scratch object for the next conversion.
+ * Otherwise, {@link #acquire()} always returns a new object.
+ * </p>
+ *
+ * @author Atsushi Yoshikawa
+ *
+ * @param <T> scratch object type
+ */
+class ScratchPool<T> {
+
+    private final Supplier<T> factory;
+    private final Consumer<T> reset;
+    private final ThreadLocal<Scratch<T>> scratches;
+
+    /**
+     * Create {@link ScratchPool}.
+     *
+     * @param pooled  whether to reuse scratch objects by each thread
+     * @param factory factory of scratch object
+     * @param reset   reset of scratch object
+     */
+    ScratchPool(boolean pooled, Supplier<T> factory, Consumer<T> reset) {
+        this.factory = factory;
+        this.reset = reset;
+        this.scratches = pooled ? ThreadLocal.withInitial(() -> new Scratch<>(factory.get())) : null;
+    }
+
+    T acquire() {
+        if (scratches == null) {
+            return factory.get();
+        }
+        Scratch<T> scratch = scratches.get();
+        if (scratch.inUse) {
+            // reentrant conversion.
+            return factory.get();
+        }
+        scratch.inUse = true;
+        return scratch.value;
+    }
+
+    void release(T value) {
+        if (scratches == null) {
+            return;
+        }
+        Scratch<T> scratch = scratches.get();
+        if (scratch.value == value) {
+            reset.accept(value);
+            scratch.inUse = false;
+        }
+    }
+
+    private static class Scratch<T> {
+        private final T value;
+        private boolean inUse;
+
+        Scratch(T value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2019 Atsushi Yoshikawa (https://yoshikawaa.github.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+import org.modelmapper.spi.ConstantMapping;
+import org.modelmapper.spi.Mapping;
+import org.modelmapper.spi.PropertyMapping;
+import org.modelmapper.spi.SourceMapping;
+import org.springframework.util.ClassUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Static cost analyzer for {@link TypeMap}.
+ * <p>
+ * The cost of a {@link TypeMap} is computed as
+ * {@code mappings + total depth + converter lookups + 10 * collection fan-out + 2 * deep copy exposure}.
+ * Converter lookups are mappings without explicit converter, whose source type is not assignable to destination type,
+ * so that they are resolved through the converter chain (or nested mapping) at runtime.
+ * Mappings simply copying the value are counted only once, as mappings.
+ * </p>
+ *
+ * @author Atsushi Yoshikawa
+ */
+public class TypeMapCostAnalyzer {
+
+    private static final int COLLECTION_WEIGHT = 10;
+    private static final int DEEP_COPY_WEIGHT = 2;
+
+    /**
+     * Analyze all {@link TypeMap}s of {@link ModelMapper}.
+     *
+     * @param modelMapper analyzing {@link ModelMapper}
+     * @return costs ranked in descending order
+     */
+    public List<TypeMapCost> analyze(ModelMapper modelMapper) {
+        boolean deepCopyEnabled = modelMapper.getConfiguration().isDeepCopyEnabled();
+        return modelMapper.getTypeMaps().stream()
+                .map(typeMap -> analyze(typeMap, deepCopyEnabled))
+                .sorted(Comparator.comparingInt(TypeMapCost::getCost).reversed())
+                .collect(Collectors.toList());
+    }
+
+    private TypeMapCost analyze(TypeMap<?, ?> typeMap, boolean deepCopyEnabled) {
+        List<Mapping> mappings = typeMap.getMappings().stream()
+                .filter(mapping -> !mapping.isSkipped())
+                .collect(Collectors.toList());
+
+        int maxDepth = 0;
+        int totalDepth = 0;
+        int converters = 0;
+        int converterLookups = 0;
+        int collections = 0;
+        int deepCopies = 0;
+        for (Mapping mapping : mappings) {
+            int depth = depth(mapping);
+            maxDepth = Math.max(maxDepth, depth);
+            totalDepth += depth;
+            Class<?> destinationType = mapping.getLastDestinationProperty().getType();
+            if (mapping.getConverter() != null) {
+                converters++;
+            } else if (!isAssignable(mapping, destinationType)) {
+                converterLookups++;
+            }
+            if (isCollection(destinationType)) {
+                collections++;
+            }
+            if (deepCopyEnabled && !isSimple(destinationType)) {
+                deepCopies++;
+            }
+        }
+        return new TypeMapCost(typeMap.getSourceType(), typeMap.getDestinationType(), mappings.size(), maxDepth,
+                converters, converterLookups, collections, deepCopies,
+                mappings.size() + totalDepth + converterLookups + COLLECTION_WEIGHT * collections
+                        + DEEP_COPY_WEIGHT * deepCopies);
+    }
+
+    private int depth(Mapping mapping) {
+        int depth = mapping.getDestinationProperties().size();
+        if (mapping instanceof PropertyMapping) {
+            depth = Math.max(depth, ((PropertyMapping) mapping).getSourceProperties().size());
+        }
+        return depth;
+    }
+
+    private boolean isAssignable(Mapping mapping, Class<?> destinationType) {
+        if (mapping instanceof PropertyMapping) {
+            return ClassUtils.isAssignable(destinationType,
+                    ((PropertyMapping) mapping).getLastSourceProperty().getType());
+        }
+        if (mapping instanceof ConstantMapping) {
+            return ClassUtils.isAssignableValue(destinationType, ((ConstantMapping) mapping).getConstant());
+        }
+        if (mapping instanceof SourceMapping) {
+            return ClassUtils.isAssignable(destinationType, ((SourceMapping) mapping).getSourceType());
+        }
+        return false;
+    }
+
+    private boolean isCollection(Class<?> type) {
+        return type.isArray() || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+    }
+
+    private boolean isSimple(Class<?> type) {
+        return ClassUtils.isPrimitiveOrWrapper(type) || type.isEnum() || CharSequence.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Cost of {@link TypeMap}.
+     */
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class TypeMapCost {
+        private final Class<?> sourceType;
+        private final Class<?> destinationType;
+        private final int mappings;
+        private final int maxDepth;
+        private final int converters;
+        private final int converterLookups;
+        private final int collections;
+        private final int deepCopies;
+        private final int cost;
+    }
+}
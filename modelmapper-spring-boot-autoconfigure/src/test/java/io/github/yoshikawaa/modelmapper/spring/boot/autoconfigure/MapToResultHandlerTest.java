@@ -0,0 +1,95 @@
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure.ModelMapperAutoConfigurationTest.Destination;
+import io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure.ModelMapperAutoConfigurationTest.Source;
+import reactor.core.publisher.Flux;
+
+class MapToResultHandlerTest {
+
+    private final ReactiveWebApplicationContextRunner contextRunner = new ReactiveWebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ModelMapperAutoConfiguration.class,
+                    JacksonAutoConfiguration.class, WebFluxAutoConfiguration.class))
+            .withUserConfiguration(MapToController.class);
+
+    @RestController
+    static class MapToController {
+        @GetMapping("/flux")
+        @MapTo(Destination.class)
+        Flux<Source> flux() {
+            return Flux.just("sample1", "sample2").map(MapToResultHandlerTest::source);
+        }
+
+        @GetMapping("/stream")
+        @MapTo(Destination.class)
+        Stream<Source> stream() {
+            return Stream.of("sample1", "sample2").map(MapToResultHandlerTest::source);
+        }
+
+        @GetMapping("/empty")
+        @MapTo(Destination.class)
+        Flux<Source> empty() {
+            return Flux.empty();
+        }
+    }
+
+    @Test
+    void testFlux() {
+        contextRunner.run(context -> {
+            // setup
+            WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+            // execute and assert
+            client.get().uri("/flux").exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                    .expectBody()
+                    .jsonPath("$.length()").isEqualTo(2)
+                    .jsonPath("$[0].id").isEqualTo("sample1")
+                    .jsonPath("$[1].id").isEqualTo("sample2");
+        });
+    }
+
+    @Test
+    void testStream() {
+        contextRunner.run(context -> {
+            // setup
+            WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+            // execute and assert
+            client.get().uri("/stream").exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.length()").isEqualTo(2)
+                    .jsonPath("$[0].id").isEqualTo("sample1")
+                    .jsonPath("$[1].id").isEqualTo("sample2");
+        });
+    }
+
+    @Test
+    void testEmpty() {
+        contextRunner.run(context -> {
+            // setup
+            WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+            // execute and assert
+            client.get().uri("/empty").exchange()
+                    .expectStatus().isOk()
+                    .expectBody().json("[]");
+        });
+    }
+
+    private static Source source(String id) {
+        Source source = new Source();
+        source.setId(id);
+        return source;
+    }
+}
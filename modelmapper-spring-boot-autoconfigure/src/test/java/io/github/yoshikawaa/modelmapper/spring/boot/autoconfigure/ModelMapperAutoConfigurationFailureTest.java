@@ -0,0 +1,68 @@
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.TypeMap;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+
+import io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure.ModelMapperAutoConfigurationTest.ImmutableDestination;
+import io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure.ModelMapperAutoConfigurationTest.Source;
+import io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure.ModelMapperAutoConfigurationTest.TypeMapConfig;
+
+class ModelMapperAutoConfigurationFailureTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ModelMapperAutoConfiguration.class));
+
+    @Test
+    void testCostExceeded() {
+        contextRunner.withUserConfiguration(TypeMapConfig.class)
+                .withPropertyValues("modelmapper.cost-analysis-enabled=true", "modelmapper.cost-max-mappings=1")
+                .run(context -> {
+                    // assert
+                    assertThat(context).hasFailed();
+                    assertThat(context.getStartupFailure())
+                            .hasStackTraceContaining("ModelMapper TypeMap cost exceeds thresholds");
+                });
+    }
+
+    @Test
+    void testPooledWithoutConverters() {
+        contextRunner.withPropertyValues("modelmapper.pooled-enabled=true")
+                .run(context -> {
+                    // assert
+                    assertThat(context).hasFailed();
+                    assertThat(context.getStartupFailure()).hasStackTraceContaining("Pooled mode requires");
+                });
+    }
+
+    @TestConfiguration
+    static class ImmutableTypeMapConfig {
+        @Bean
+        TypeMapConfigurer<Source, ImmutableDestination> typeMap() {
+            return new TypeMapConfigurer<Source, ImmutableDestination>() {
+                @Override
+                public void configure(TypeMap<Source, ImmutableDestination> typeMap) {
+                    // implicit mappings only.
+                }
+            };
+        }
+    }
+
+    @Test
+    void testConstructorMappingConflict() {
+        contextRunner.withUserConfiguration(ImmutableTypeMapConfig.class)
+                .withPropertyValues("modelmapper.constructor-mapping-enabled=true")
+                .run(context -> {
+                    // assert
+                    assertThat(context).hasFailed();
+                    assertThat(context.getStartupFailure())
+                            .hasStackTraceContaining("ModelMapper TypeMaps without Provider")
+                            .hasStackTraceContaining(ImmutableDestination.class.getName());
+                });
+    }
+}
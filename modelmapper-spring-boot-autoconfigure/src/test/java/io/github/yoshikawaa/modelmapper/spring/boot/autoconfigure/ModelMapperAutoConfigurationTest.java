@@ -1,12 +1,30 @@
 package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
 
 import static org.assertj.core.api.Assertions.assertThat;
-
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.hibernate.collection.internal.PersistentBag;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.modelmapper.Condition;
 import org.modelmapper.Converter;
+import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.Module;
 import org.modelmapper.Provider;
@@ -17,23 +35,37 @@ import org.modelmapper.convention.MatchingStrategies;
 import org.modelmapper.convention.NameTokenizers;
 import org.modelmapper.convention.NameTransformers;
 import org.modelmapper.convention.NamingConventions;
+import org.modelmapper.spi.ConditionalConverter.MatchResult;
 import org.modelmapper.spi.MappingContext;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.support.ListItemWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Value;
 
 @ExtendWith(SpringExtension.class)
 @ExtendWith(OutputCaptureExtension.class)
@@ -197,6 +229,69 @@ class ModelMapperAutoConfigurationTest {
         }
     }
 
+    @TestConfiguration
+    static class PrimaryConditionConfig {
+        @Bean
+        @Primary
+        Condition<String, String> condition() {
+            return context -> !StringUtils.isEmpty(context.getSource());
+        }
+
+        @Bean
+        Condition<Object, Object> otherCondition() {
+            return context -> false;
+        }
+    }
+
+    @Nested
+    @ImportAutoConfiguration(ModelMapperAutoConfiguration.class)
+    @Import(PrimaryConditionConfig.class)
+    class PrimaryConditionTest {
+
+        @Autowired
+        private ModelMapper modelMapper;
+
+        @Test
+        void test() {
+            // setup
+            Source source = new Source();
+            source.setId("sample");
+            source.setName("");
+            // execute
+            Destination destination = modelMapper.map(source, Destination.class);
+            // assert
+            assertThat(destination).isNotNull();
+            assertThat(destination.getId()).isEqualTo("sample");
+            assertThat(destination.getUsername()).isNull();
+        }
+    }
+
+    @Nested
+    @ImportAutoConfiguration(ModelMapperAutoConfiguration.class)
+    @Import(PrimaryConditionConfig.class)
+    @TestPropertySource("classpath:/test6.properties")
+    class PrimaryConditionWithLazyLoadingTest {
+
+        @Autowired
+        private ModelMapper modelMapper;
+
+        @Test
+        void test() {
+            // setup
+            Entity entity = new Entity();
+            entity.setId("sample");
+            entity.setName("");
+            entity.setItems(new PersistentBag());
+            // execute
+            Dto dto = modelMapper.map(entity, Dto.class);
+            // assert
+            assertThat(dto).isNotNull();
+            assertThat(dto.getId()).isEqualTo("sample");
+            assertThat(dto.getName()).isNull();
+            assertThat(dto.getItems()).isNull();
+        }
+    }
+
     @TestConfiguration
     static class ModuleConfig {
         @Bean
@@ -361,6 +456,407 @@ class ModelMapperAutoConfigurationTest {
         }
     }
 
+    @TestConfiguration
+    static class LazyLoadingConditionConfig {
+        @Bean
+        Condition<Object, Object> condition() {
+            return context -> !"".equals(context.getSource());
+        }
+    }
+
+    @Nested
+    @ImportAutoConfiguration(ModelMapperAutoConfiguration.class)
+    @Import(LazyLoadingConditionConfig.class)
+    @TestPropertySource("classpath:/test6.properties")
+    class HibernateLazyLoadingTest {
+
+        @Autowired
+        private ModelMapper modelMapper;
+
+        @Autowired
+        private HibernateLazyLoadingCondition condition;
+
+        @Test
+        void test() {
+            // setup
+            Entity entity = new Entity();
+            entity.setId("");
+            entity.setName("sample");
+            entity.setItems(new PersistentBag());
+            entity.setTags(Arrays.asList("tag"));
+            entity.setCustomer(new CustomerProxy());
+            // execute
+            Dto dto = modelMapper.map(entity, Dto.class);
+            // assert
+            assertThat(dto).isNotNull();
+            assertThat(dto.getId()).isNull();
+            assertThat(dto.getName()).isEqualTo("sample");
+            assertThat(dto.getItems()).isNull();
+            assertThat(dto.getTags()).containsExactly("tag");
+            assertThat(dto.getCustomer()).isNull();
+            assertThat(condition.getSkippedPaths()).hasSize(2)
+                    .anyMatch(path -> path.endsWith("items"))
+                    .anyMatch(path -> path.endsWith("customer"));
+        }
+    }
+
+    @Nested
+    @ImportAutoConfiguration(ModelMapperAutoConfiguration.class)
+    @Import(TypeMapConfig.class)
+    @TestPropertySource("classpath:/test7.properties")
+    class CostAnalysisTest {
+
+        @Autowired
+        private ModelMapper modelMapper;
+
+        @Test
+        void test(CapturedOutput output) {
+            // execute
+            List<TypeMapCostAnalyzer.TypeMapCost> costs = new TypeMapCostAnalyzer().analyze(modelMapper);
+            // assert
+            assertThat(costs).hasSize(1).first().satisfies(cost -> {
+                assertThat(cost.getSourceType()).isEqualTo(Source.class);
+                assertThat(cost.getDestinationType()).isEqualTo(Destination.class);
+                assertThat(cost.getMappings()).isEqualTo(2);
+                assertThat(cost.getMaxDepth()).isEqualTo(1);
+                assertThat(cost.getConverterLookups()).isEqualTo(0);
+                assertThat(cost.getCost()).isEqualTo(4);
+            });
+            assertThat(output).contains("ModelMapper TypeMap Cost Report (1 TypeMaps)");
+        }
+    }
+
+    @Nested
+    @ImportAutoConfiguration(ModelMapperAutoConfiguration.class)
+    @TestPropertySource("classpath:/test8.properties")
+    class ConstructorMappingTest {
+
+        @Autowired
+        private ModelMapper modelMapper;
+
+        @Test
+        void test() {
+            // setup
+            Source source = new Source();
+            source.setId("sample");
+            source.setName("name");
+            // execute
+            ImmutableDestination destination = modelMapper.map(source, ImmutableDestination.class);
+            // assert
+            assertThat(destination).isEqualTo(new ImmutableDestination("sample", "name"));
+        }
+
+        @Test
+        void testNestedCollection() {
+            // setup
+            Item item = new Item();
+            item.setName("item");
+            Order order = new Order();
+            order.setId("sample");
+            order.setItems(Collections.singletonList(item));
+            // execute
+            ImmutableOrder destination = modelMapper.map(order, ImmutableOrder.class);
+            // assert
+            assertThat(destination.getId()).isEqualTo("sample");
+            assertThat(destination.getItems()).hasSize(1).first().isInstanceOf(ItemDto.class)
+                    .extracting(ItemDto::getName).isEqualTo("item");
+        }
+    }
+
+    @Nested
+    @ImportAutoConfiguration(ModelMapperAutoConfiguration.class)
+    @Import(PropertyConditionConfig.class)
+    @TestPropertySource("classpath:/test8.properties")
+    class ConstructorMappingConditionTest {
+
+        @Autowired
+        private ModelMapper modelMapper;
+
+        @Test
+        void test() {
+            // setup
+            Source source = new Source();
+            source.setId("sample");
+            source.setName("");
+            // execute
+            ImmutableDestination destination = modelMapper.map(source, ImmutableDestination.class);
+            // assert
+            assertThat(destination).isEqualTo(new ImmutableDestination("sample", null));
+        }
+    }
+
+    @Nested
+    @ImportAutoConfiguration(ModelMapperAutoConfiguration.class)
+    @TestPropertySource("classpath:/test10.properties")
+    class PooledTest {
+
+        @Autowired
+        private ModelMapper modelMapper;
+
+        @Test
+        void testConstructorMapping() {
+            // setup
+            Node child = new Node();
+            child.setId("child");
+            Node parent = new Node();
+            parent.setId("parent");
+            parent.setChild(child);
+            // execute
+            ImmutableNode destination1 = modelMapper.map(parent, ImmutableNode.class);
+            ImmutableNode destination2 = modelMapper.map(child, ImmutableNode.class);
+            // assert
+            assertThat(destination1).isEqualTo(new ImmutableNode("parent", new ImmutableNode("child", null)));
+            assertThat(destination2).isEqualTo(new ImmutableNode("child", null));
+        }
+
+        @Test
+        void testMapSourcePlan() {
+            // setup
+            Map<String, Object> child = new HashMap<>();
+            child.put("id", "child");
+            Map<String, Object> parent = new HashMap<>();
+            parent.put("id", "parent");
+            parent.put("child", child);
+            // execute
+            Node destination1 = modelMapper.map(parent, Node.class);
+            Node destination2 = modelMapper.map(child, Node.class);
+            // assert
+            assertThat(destination1.getId()).isEqualTo("parent");
+            assertThat(destination1.getChild()).isNotNull().extracting(Node::getId).isEqualTo("child");
+            assertThat(destination2.getId()).isEqualTo("child");
+            assertThat(destination2.getChild()).isNull();
+        }
+    }
+
+    @Nested
+    @ImportAutoConfiguration(ModelMapperAutoConfiguration.class)
+    @TestPropertySource("classpath:/test9.properties")
+    class NameCacheTest {
+
+        @Autowired
+        private ModelMapper modelMapper;
+        @Autowired
+        private NameCacheReporter nameCacheReporter;
+
+        @Test
+        void test(CapturedOutput output) {
+            // setup
+            Source source = new Source();
+            source.setId("sample");
+            // execute
+            Destination destination = modelMapper.map(source, Destination.class);
+            Dto dto = modelMapper.map(source, Dto.class);
+            nameCacheReporter.report();
+            // assert
+            assertThat(destination).isNotNull().extracting(Destination::getId).isEqualTo("sample");
+            assertThat(dto).isNotNull().extracting(Dto::getId).isEqualTo("sample");
+            Configuration configuration = modelMapper.getConfiguration();
+            assertThat(configuration.getSourceNameTokenizer()).isInstanceOf(CachingNameTokenizer.class)
+                    .isSameAs(configuration.getDestinationNameTokenizer());
+            assertThat(configuration.getSourceNameTransformer()).isInstanceOf(CachingNameTransformer.class);
+            assertThat(((CachingNameTokenizer) configuration.getSourceNameTokenizer()).getCache().getHits())
+                    .isPositive();
+            assertThat(output).contains("ModelMapper NameTokenizer [Camel Case] cache : ")
+                    .contains("ModelMapper NameTransformer [Javabeans Accessor] cache : ");
+        }
+    }
+
+    @Nested
+    @ImportAutoConfiguration(ModelMapperAutoConfiguration.class)
+    @Import(ConverterConfig.class)
+    @TestPropertySource("classpath:/test11.properties")
+    class MapSourcePlanTest {
+
+        @Autowired
+        private ModelMapper modelMapper;
+
+        @Test
+        void test() {
+            // setup
+            Map<String, Object> source = new HashMap<>();
+            source.put("id", "sample");
+            source.put("username", "name");
+            source.put("email", "sample@email.com");
+            source.put("unknown", "unknown");
+            // execute
+            Destination destination = modelMapper.map(source, Destination.class);
+            // assert
+            assertThat(destination).isNotNull();
+            assertThat(destination.getId()).isEqualTo("sample");
+            assertThat(destination.getUsername()).isEqualTo("name");
+            assertThat(destination.getEmail()).hasToString("sample@email.com");
+        }
+
+        @Test
+        void testNestedMap() {
+            // setup
+            Map<String, Object> customer = new HashMap<>();
+            customer.put("name", "customer");
+            Map<String, Object> source = new HashMap<>();
+            source.put("id", "sample");
+            source.put("display_name", "name");
+            source.put("customer", customer);
+            // execute
+            Account account = modelMapper.map(source, Account.class);
+            // assert
+            assertThat(account.getId()).isEqualTo("sample");
+            assertThat(account.getDisplayName()).isEqualTo("name");
+            assertThat(account.getCustomer()).isNotNull().extracting(Customer::getName).isEqualTo("customer");
+        }
+
+        @Test
+        void testParameterizedCollection() {
+            // setup
+            Map<String, Object> source = new HashMap<>();
+            source.put("id", "sample");
+            source.put("items", Arrays.asList("item1", "item2"));
+            MapSourceConverter converter = modelMapper.getConfiguration().getConverters().stream()
+                    .filter(candidate -> candidate instanceof MapSourceConverter)
+                    .map(candidate -> (MapSourceConverter) candidate).findFirst()
+                    .orElseThrow(IllegalStateException::new);
+            // execute
+            Dto dto = modelMapper.map(source, Dto.class);
+            // assert
+            assertThat(converter.match(HashMap.class, Dto.class)).isEqualTo(MatchResult.NONE);
+            assertThat(dto.getId()).isEqualTo("sample");
+            assertThat(dto.getItems()).containsExactly("item1", "item2");
+        }
+
+        @Test
+        void testAmbiguousKeys() {
+            // setup
+            Map<String, Object> source = new HashMap<>();
+            source.put("id", "sample1");
+            source.put("ID", "sample2");
+            // execute and assert
+            assertThatThrownBy(() -> modelMapper.map(source, Destination.class))
+                    .isInstanceOf(MappingException.class).hasStackTraceContaining("Ambiguous keys");
+        }
+    }
+
+    @Nested
+    @ImportAutoConfiguration(ModelMapperAutoConfiguration.class)
+    @Import(PropertyConditionConfig.class)
+    @TestPropertySource("classpath:/test11.properties")
+    class MapSourcePlanConditionTest {
+
+        @Autowired
+        private ModelMapper modelMapper;
+
+        @Test
+        void test() {
+            // setup
+            Map<String, Object> source = new HashMap<>();
+            source.put("id", "sample");
+            source.put("username", "");
+            // execute
+            Destination destination = modelMapper.map(source, Destination.class);
+            // assert
+            assertThat(destination).isNotNull();
+            assertThat(destination.getId()).isEqualTo("sample");
+            assertThat(destination.getUsername()).isNull();
+        }
+    }
+
+    @RestController
+    static class MapToController {
+        @GetMapping("/sources")
+        @MapTo(Destination.class)
+        Stream<Source> sources() {
+            return Stream.of("sample1", "sample2").map(id -> {
+                Source source = new Source();
+                source.setId(id);
+                return source;
+            });
+        }
+
+        @GetMapping("/failure")
+        @MapTo(Destination.class)
+        Stream<Source> failure() {
+            return Stream.of("sample1", "invalid").map(id -> {
+                Source source = new Source();
+                source.setId(id);
+                // no converter for String to Email.
+                source.setEmail(id.equals("invalid") ? id : null);
+                return source;
+            });
+        }
+    }
+
+    @Nested
+    @WebAppConfiguration
+    @ImportAutoConfiguration({ ModelMapperAutoConfiguration.class, JacksonAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class })
+    @Import(MapToController.class)
+    class MapToTest {
+
+        @Autowired
+        private WebApplicationContext context;
+
+        @Test
+        void test() throws Exception {
+            // setup
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+            // execute and assert
+            mockMvc.perform(get("/sources"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].id").value("sample1"))
+                    .andExpect(jsonPath("$[1].id").value("sample2"));
+        }
+
+        @Test
+        void testFailure() {
+            // setup
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+            // execute and assert
+            assertThatThrownBy(() -> mockMvc.perform(get("/failure"))).hasCauseInstanceOf(MappingException.class);
+        }
+    }
+
+    @Nested
+    @ImportAutoConfiguration(ModelMapperAutoConfiguration.class)
+    class BatchTest {
+
+        @Autowired
+        private ModelMapperItemFactory itemFactory;
+        @Autowired
+        private ModelMapper modelMapper;
+
+        @Test
+        void test() throws Exception {
+            // setup
+            List<Source> sources = IntStream.range(0, 100).mapToObj(i -> {
+                Source source = new Source();
+                source.setId("sample" + i);
+                return source;
+            }).collect(Collectors.toList());
+            ModelMapperItemProcessor<Source, Destination> processor = itemFactory.processor(Source.class,
+                    Destination.class);
+            ListItemWriter<Destination> delegate = new ListItemWriter<>();
+            ModelMapperItemWriter<Source, Destination> writer = itemFactory.writer(Source.class, Destination.class,
+                    delegate, true);
+            // execute
+            List<Destination> processed = sources.stream().map(source -> processor.process(source))
+                    .collect(Collectors.toList());
+            writer.write(sources);
+            // assert
+            assertThat(processed).extracting(Destination::getId).containsExactlyElementsOf(
+                    sources.stream().map(Source::getId).collect(Collectors.toList()));
+            assertThat(delegate.getWrittenItems()).isEqualTo(processed);
+        }
+
+        @Test
+        void testWithoutTypeMap() {
+            // execute
+            itemFactory.processor(Source.class, ImmutableDestination.class);
+            itemFactory.writer(Source.class, ImmutableDestination.class, new ListItemWriter<>(), false);
+            // assert
+            assertThat(modelMapper.getTypeMap(Source.class, ImmutableDestination.class)).isNull();
+        }
+    }
+
     @Data
     static class Source {
         private String id;
@@ -386,4 +882,98 @@ class ModelMapperAutoConfigurationTest {
             return String.join("@", prefix, suffix);
         }
     }
-}
+
+    @Value
+    static class ImmutableDestination {
+        String id;
+        String name;
+    }
+
+    @Data
+    static class Node {
+        private String id;
+        private Node child;
+    }
+
+    @Value
+    static class ImmutableNode {
+        String id;
+        ImmutableNode child;
+    }
+
+    @Data
+    static class MutableDestination {
+        private String id;
+        private String name;
+    }
+
+    @Data
+    static class Order {
+        private String id;
+        private List<Item> items;
+    }
+
+    @Data
+    static class Item {
+        private String name;
+    }
+
+    @Value
+    static class ImmutableOrder {
+        String id;
+        List<ItemDto> items;
+    }
+
+    @Data
+    static class ItemDto {
+        private String name;
+    }
+
+    @Data
+    static class Account {
+        private String id;
+        private String displayName;
+        private Customer customer;
+    }
+
+    @Data
+    static class Entity {
+        private String id;
+        private String name;
+        private List<String> items;
+        private List<String> tags;
+        private Customer customer;
+    }
+
+    @Data
+    static class Dto {
+        private String id;
+        private String name;
+        private List<String> items;
+        private List<String> tags;
+        private Customer customer;
+    }
+
+    @Data
+    static class Customer {
+        private String name;
+    }
+
+    static class CustomerProxy extends Customer implements HibernateProxy {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Object writeReplace() {
+            return this;
+        }
+
+        @Override
+        public LazyInitializer getHibernateLazyInitializer() {
+            // uninitialized proxy of to-one association.
+            return (LazyInitializer) java.lang.reflect.Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] { LazyInitializer.class },
+                    (proxy, method, args) -> "isUninitialized".equals(method.getName()) ? Boolean.TRUE : null);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+package io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+
+import com.sun.management.ThreadMXBean;
+
+import io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure.ModelMapperAutoConfigurationTest.Destination;
+import io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure.ModelMapperAutoConfigurationTest.ImmutableDestination;
+import io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure.ModelMapperAutoConfigurationTest.MutableDestination;
+import io.github.yoshikawaa.modelmapper.spring.boot.autoconfigure.ModelMapperAutoConfigurationTest.Source;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Simple timing and allocation of mapping hot paths, excluded from the default build.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class ModelMapperBenchmarkTest {
+
+    private static final int ITEMS = 100_000;
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int ITERATIONS = 5;
+
+    @Test
+    void testBatch() throws Exception {
+        // setup
+        ModelMapper modelMapper = new ModelMapper();
+        List<Source> sources = sources(ITEMS);
+        ItemProcessor<Source, Destination> naive = item -> modelMapper.map(item, Destination.class);
+        ModelMapperItemProcessor<Source, Destination> processor = new ModelMapperItemProcessor<>(modelMapper,
+                Source.class, Destination.class);
+        List<Destination> written = new ArrayList<>(ITEMS);
+        ItemWriter<Destination> delegate = items -> written.addAll(items);
+        ModelMapperItemWriter<Source, Destination> writer = new ModelMapperItemWriter<>(modelMapper, Source.class,
+                Destination.class, delegate);
+        ModelMapperItemWriter<Source, Destination> parallelWriter = new ModelMapperItemWriter<>(modelMapper,
+                Source.class, Destination.class, delegate);
+        parallelWriter.setParallel(true);
+        // execute
+        measure("ModelMapper#map processor", ITEMS, () -> process(naive, sources));
+        measure("ModelMapperItemProcessor", ITEMS, () -> process(processor, sources));
+        measure("ModelMapperItemWriter", ITEMS, () -> write(writer, sources, written));
+        measure("ModelMapperItemWriter (parallel)", ITEMS, () -> write(parallelWriter, sources, written));
+        // assert
+        assertThat(written).hasSize(ITEMS);
+    }
+
+    @Test
+    void testConstructorMapping() throws Exception {
+        // setup
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().getConverters().add(0,
+                new ConstructorMappingConverter(modelMapper.getConfiguration()));
+        List<Source> sources = sources(ITEMS);
+        // execute
+        // same properties (id, name) for both shapes, so that only the instantiation strategy differs.
+        measure("setter mapping", ITEMS, () -> map(modelMapper, sources, MutableDestination.class));
+        measure("constructor mapping", ITEMS, () -> map(modelMapper, sources, ImmutableDestination.class));
+        // assert
+        MutableDestination mutable = modelMapper.map(sources.get(0), MutableDestination.class);
+        assertThat(modelMapper.map(sources.get(0), ImmutableDestination.class))
+                .isEqualTo(new ImmutableDestination(mutable.getId(), mutable.getName()));
+    }
+
+    @Test
+    void testMapSourcePlan() throws Exception {
+        // setup
+        ModelMapper defaultModelMapper = new ModelMapper();
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().getConverters().add(0,
+                new MapSourceConverter(modelMapper.getConfiguration(), 10000));
+        List<Map<String, Object>> sources = mapSources(ITEMS);
+        // execute
+        measure("Map mapping", ITEMS, () -> map(defaultModelMapper, sources, Destination.class));
+        measure("Map mapping with plan", ITEMS, () -> map(modelMapper, sources, Destination.class));
+        // assert
+        assertThat(map(modelMapper, sources, Destination.class)).extracting(Destination::getUsername)
+                .contains("name0");
+    }
+
+    @Test
+    void testPooledAllocation() throws Exception {
+        // setup
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().getConverters().add(0,
+                new ConstructorMappingConverter(modelMapper.getConfiguration(), false));
+        modelMapper.getConfiguration().getConverters().add(0,
+                new MapSourceConverter(modelMapper.getConfiguration(), 10000, false));
+        ModelMapper pooledModelMapper = new ModelMapper();
+        pooledModelMapper.getConfiguration().getConverters().add(0,
+                new ConstructorMappingConverter(pooledModelMapper.getConfiguration(), true));
+        pooledModelMapper.getConfiguration().getConverters().add(0,
+                new MapSourceConverter(pooledModelMapper.getConfiguration(), 10000, true));
+        List<Source> sources = sources(ITEMS);
+        List<Map<String, Object>> mapSources = mapSources(ITEMS);
+        // execute
+        long constructorBytes = measureAllocation("constructor mapping", ITEMS,
+                () -> mapEach(modelMapper, sources, ImmutableDestination.class));
+        long pooledConstructorBytes = measureAllocation("constructor mapping (pooled)", ITEMS,
+                () -> mapEach(pooledModelMapper, sources, ImmutableDestination.class));
+        long mapSourceBytes = measureAllocation("Map mapping with plan", ITEMS,
+                () -> mapEach(modelMapper, mapSources, Destination.class));
+        long pooledMapSourceBytes = measureAllocation("Map mapping with plan (pooled)", ITEMS,
+                () -> mapEach(pooledModelMapper, mapSources, Destination.class));
+        log.info("pooled mode saves {} bytes/op for constructor mapping, {} bytes/op for Map mapping",
+                constructorBytes - pooledConstructorBytes, mapSourceBytes - pooledMapSourceBytes);
+        // assert
+        assertThat(pooledConstructorBytes).isPositive();
+        assertThat(pooledMapSourceBytes).isPositive();
+    }
+
+    static List<Source> sources(int size) {
+        return IntStream.range(0, size).mapToObj(i -> {
+            Source source = new Source();
+            source.setId("sample" + i);
+            source.setName("name" + i);
+            return source;
+        }).collect(Collectors.toList());
+    }
+
+    static List<Map<String, Object>> mapSources(int size) {
+        return IntStream.range(0, size).mapToObj(i -> {
+            Map<String, Object> source = new HashMap<>();
+            source.put("id", "sample" + i);
+            source.put("username", "name" + i);
+            return source;
+        }).collect(Collectors.toList());
+    }
+
+    static long measureAllocation(String name, int operations, Callable<?> task) throws Exception {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        // warm up once, then measure bytes allocated by current thread.
+        task.call();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        task.call();
+        long bytes = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / operations;
+        log.info("{} : {} bytes/op", name, bytes);
+        return bytes;
+    }
+
+    static void measure(String name, int operations, Callable<?> task) throws Exception {
+        // warm up once, then take the best of iterations.
+        task.call();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            task.call();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        log.info("{} : {} ops/sec", name, operations * TimeUnit.SECONDS.toNanos(1) / Math.max(best, 1));
+    }
+
+    static <D> List<D> map(ModelMapper modelMapper, List<?> sources, Class<D> destinationType) {
+        List<D> mapped = new ArrayList<>(sources.size());
+        for (Object source : sources) {
+            mapped.add(modelMapper.map(source, destinationType));
+        }
+        return mapped;
+    }
+
+    static Object mapEach(ModelMapper modelMapper, List<?> sources, Class<?> destinationType) {
+        Object mapped = null;
+        for (Object source : sources) {
+            mapped = modelMapper.map(source, destinationType);
+        }
+        return mapped;
+    }
+
+    private static List<Destination> process(ItemProcessor<Source, Destination> processor, List<Source> sources)
+            throws Exception {
+        List<Destination> processed = new ArrayList<>(sources.size());
+        for (Source source : sources) {
+            processed.add(processor.process(source));
+        }
+        return processed;
+    }
+
+    private static List<Destination> write(ItemWriter<Source> writer, List<Source> sources,
+            List<Destination> written) throws Exception {
+        written.clear();
+        for (int i = 0; i < sources.size(); i += CHUNK_SIZE) {
+            writer.write(sources.subList(i, Math.min(i + CHUNK_SIZE, sources.size())));
+        }
+        return written;
+    }
+}